@@ -0,0 +1,185 @@
+package io.jlloyd.pojotester.daemon;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Loads classes from a list of class directories through a chain of {@link URLClassLoader}s, one per directory. When a
+ * directory changes, only its loader and the loaders chained after it are replaced, so unchanged directories keep
+ * their loaded classes.
+ * 
+ * @author lloydjm77
+ */
+final class ClassDirectoryLoader implements Closeable {
+
+	/**
+	 * How recently a file may have been modified before its modification time is no longer trusted on its own. A file
+	 * rewritten within the resolution of the file system's timestamps can keep both its size and modification time.
+	 */
+	static final long TIMESTAMP_RESOLUTION_MILLIS = 2000;
+
+	private static final long NO_CHECKSUM = -1;
+
+	private final File[] directories;
+
+	private final List<Map<String, FileState>> fileStates = new ArrayList<Map<String, FileState>>();
+
+	private final URLClassLoader[] classLoaders;
+
+	ClassDirectoryLoader(List<File> directories) {
+		this.directories = directories.toArray(new File[directories.size()]);
+		this.classLoaders = new URLClassLoader[this.directories.length];
+		for (int i = 0; i < this.directories.length; i++) {
+			fileStates.add(new HashMap<String, FileState>());
+		}
+	}
+
+	/**
+	 * Replaces the loaders of any directory that changed since the last refresh, along with the loaders chained after
+	 * it.
+	 * 
+	 * @return True if any loader was replaced.
+	 * @throws IOException
+	 *             If a class directory cannot be read or a replaced loader cannot be closed.
+	 */
+	boolean refresh() throws IOException {
+		long now = System.currentTimeMillis();
+		int firstChanged = -1;
+		for (int i = 0; i < directories.length; i++) {
+			Map<String, FileState> previous = fileStates.get(i);
+			Map<String, FileState> current = new HashMap<String, FileState>();
+			// A changed file count means files were removed, since added files are already reported by the scan.
+			boolean changed = scan(directories[i], previous, current, now) || current.size() != previous.size();
+			if (firstChanged < 0 && (classLoaders[i] == null || changed)) {
+				firstChanged = i;
+			}
+			fileStates.set(i, current);
+		}
+
+		if (firstChanged < 0) {
+			return false;
+		}
+
+		for (int i = firstChanged; i < directories.length; i++) {
+			if (classLoaders[i] != null) {
+				classLoaders[i].close();
+			}
+			ClassLoader parent = i == 0 ? ClassDirectoryLoader.class.getClassLoader() : classLoaders[i - 1];
+			classLoaders[i] = new URLClassLoader(new URL[] { directories[i].toURI().toURL() }, parent);
+		}
+		return true;
+	}
+
+	/**
+	 * @return The loader for the last directory, which delegates to the loaders of the directories before it.
+	 */
+	ClassLoader getClassLoader() {
+		return directories.length == 0 ? ClassDirectoryLoader.class.getClassLoader()
+				: classLoaders[directories.length - 1];
+	}
+
+	/**
+	 * @param packageName
+	 *            - The package to list, including its subpackages.
+	 * @return The names of the classes in the package across every directory, in directory order.
+	 */
+	List<String> getClassNames(String packageName) {
+		List<String> classNames = new ArrayList<String>();
+		for (File directory : directories) {
+			addClassNames(new File(directory, packageName.replace('.', File.separatorChar)), packageName, classNames);
+		}
+		return classNames;
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (URLClassLoader classLoader : classLoaders) {
+			if (classLoader != null) {
+				classLoader.close();
+			}
+		}
+	}
+
+	private static void addClassNames(File directory, String packageName, List<String> classNames) {
+		File[] children = directory.listFiles();
+		if (children == null) {
+			return;
+		}
+
+		Arrays.sort(children);
+		for (File child : children) {
+			String name = child.getName();
+			if (child.isDirectory()) {
+				addClassNames(child, packageName + '.' + name, classNames);
+			} else if (name.endsWith(".class")) {
+				classNames.add(packageName + '.' + name.substring(0, name.length() - ".class".length()));
+			}
+		}
+	}
+
+	/*
+	 * Records the state of every file under the directory and reports whether any file is new or changed. Most files
+	 * are compared by size and modification time alone. Contents are only hashed while the modification time is too
+	 * recent to be trusted, and once more on the following scan, so a quick recompile that keeps both is still seen.
+	 */
+	private static boolean scan(File directory, Map<String, FileState> previous, Map<String, FileState> current,
+			long now) throws IOException {
+		File[] children = directory.listFiles();
+		if (children == null) {
+			return false;
+		}
+
+		boolean changed = false;
+		for (File child : children) {
+			if (child.isDirectory()) {
+				changed |= scan(child, previous, current, now);
+				continue;
+			}
+
+			String path = child.getPath();
+			long size = child.length();
+			long modified = Files.getLastModifiedTime(child.toPath()).toMillis();
+			FileState last = previous.get(path);
+
+			boolean recent = now - modified < TIMESTAMP_RESOLUTION_MILLIS;
+			long checksum = recent || last != null && last.checksum != NO_CHECKSUM ? checksum(child) : NO_CHECKSUM;
+
+			changed |= last == null || last.size != size || last.modified != modified
+					|| last.checksum != NO_CHECKSUM && last.checksum != checksum;
+			current.put(path, new FileState(size, modified, recent ? checksum : NO_CHECKSUM));
+		}
+		return changed;
+	}
+
+	private static long checksum(File file) throws IOException {
+		CRC32 checksum = new CRC32();
+		checksum.update(Files.readAllBytes(file.toPath()));
+		return checksum.getValue();
+	}
+
+	private static final class FileState {
+
+		private final long size;
+
+		private final long modified;
+
+		// Only recorded while the modification time is too recent to be trusted.
+		private final long checksum;
+
+		private FileState(long size, long modified, long checksum) {
+			this.size = size;
+			this.modified = modified;
+			this.checksum = checksum;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package io.jlloyd.pojotester.daemon;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Client for sending verification requests to a running {@link PojoTesterDaemon}.
+ * 
+ * @author lloydjm77
+ */
+public final class PojoTesterClient {
+
+	static final String VERIFY = "VERIFY";
+
+	static final String SHUTDOWN = "SHUTDOWN";
+
+	static final String PASS = "PASS";
+
+	static final String FAIL = "FAIL";
+
+	static final String ERROR = "ERROR";
+
+	/**
+	 * How long to wait for the daemon to answer, so a hung daemon fails the build instead of stalling it. A cold
+	 * verification of a large package can take a while, so this is generous.
+	 */
+	static final int RESPONSE_TIMEOUT_MILLIS = 600000;
+
+	private PojoTesterClient() {
+		throw new UnsupportedOperationException("This class should not be instantiated.");
+	}
+
+	/**
+	 * <p>
+	 * Asks the daemon to verify the POJOs in the specified package, loading them from the specified class directories.
+	 * The daemon applies the same rules as {@link io.jlloyd.pojotester.PojoUtil#verifyAll(String)} and reports every
+	 * failure at once, as {@link io.jlloyd.pojotester.PojoUtil#verifyAllCollectingFailures(String)} does.
+	 * </p>
+	 * <p>
+	 * Class directories are loaded in order, so a directory can depend on the classes in the directories before it.
+	 * Classes that are also on the daemon's own classpath are loaded from there instead.
+	 * </p>
+	 * 
+	 * @param port
+	 *            - The port the daemon is listening on.
+	 * @param packageName
+	 *            - The package name to scan for {@link java.io.Serializable} beans.
+	 * @param classDirectories
+	 *            - The directories containing the compiled classes, e.g. target/classes.
+	 * @throws AssertionError
+	 *             If the verification fails, or if the daemon cannot be reached, does not answer within
+	 *             {@value #RESPONSE_TIMEOUT_MILLIS} milliseconds or cannot run the verification.
+	 */
+	public static void verifyAll(int port, String packageName, List<File> classDirectories) {
+		StringBuilder classpath = new StringBuilder();
+		for (File classDirectory : classDirectories) {
+			if (classpath.length() > 0) {
+				classpath.append(File.pathSeparator);
+			}
+			classpath.append(classDirectory.getAbsolutePath());
+		}
+
+		String[] response = send(port, VERIFY + '\t' + packageName + '\t' + classpath);
+
+		if (FAIL.equals(response[0])) {
+			throw new AssertionError(response[1]);
+		}
+
+		if (!PASS.equals(response[0])) {
+			throw new AssertionError("Package " + packageName + " cannot be verified by the daemon: " + response[1]);
+		}
+	}
+
+	/**
+	 * Asks the daemon to stop.
+	 * 
+	 * @param port
+	 *            - The port the daemon is listening on.
+	 * @throws AssertionError
+	 *             If the daemon cannot be reached.
+	 */
+	public static void shutdown(int port) {
+		send(port, SHUTDOWN);
+	}
+
+	/*
+	 * Sends a single request line and returns the status line and the remainder of the response.
+	 */
+	private static String[] send(int port, String request) {
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			socket.setSoTimeout(RESPONSE_TIMEOUT_MILLIS);
+			Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+			writer.write(request + '\n');
+			writer.flush();
+
+			BufferedReader reader = new BufferedReader(
+					new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			String status = reader.readLine();
+			StringBuilder body = new StringBuilder();
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (body.length() > 0) {
+					body.append(System.lineSeparator());
+				}
+				body.append(line);
+			}
+			return new String[] { status, body.toString() };
+		} catch (IOException e) {
+			throw new AssertionError("Daemon on port " + port + " cannot be reached.", e);
+		}
+	}
+}
@@ -0,0 +1,258 @@
+package io.jlloyd.pojotester.daemon;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jlloyd.pojotester.PojoUtil;
+import io.jlloyd.pojotester.PojoVerificationError;
+import io.jlloyd.pojotester.VerificationReport;
+
+import com.openpojo.reflection.cache.PojoCache;
+
+/**
+ * <p>
+ * A long-lived local server that verifies POJOs on behalf of a build, so classpath scanning, openpojo metadata and
+ * verification results stay warm between runs. Requests are sent with {@link PojoTesterClient}.
+ * </p>
+ * <p>
+ * The daemon only listens on the loopback address and handles one request at a time. Class directories are loaded
+ * through a {@link ClassDirectoryLoader} per classpath, and the result for a package is reused until any class
+ * directory of that classpath changes. A change drops every result for the classpath, not just the results of the
+ * changed directory, and clears openpojo's {@link PojoCache} entirely. Only the {@value #MAX_CLASSPATHS} most
+ * recently used classpaths are kept.
+ * </p>
+ *
+ * @author lloydjm77
+ */
+public final class PojoTesterDaemon implements Closeable {
+
+	/**
+	 * The port used when none is specified on the command line.
+	 */
+	public static final int DEFAULT_PORT = 7711;
+
+	/**
+	 * How long a connection may take to send its request line before it is dropped, so an idle connection cannot
+	 * block the requests queued behind it.
+	 */
+	static final int REQUEST_TIMEOUT_MILLIS = 10000;
+
+	/**
+	 * How many classpaths keep their loaders and results before the least recently used one is evicted.
+	 */
+	static final int MAX_CLASSPATHS = 4;
+
+	private final ServerSocket serverSocket;
+
+	private final int requestTimeoutMillis;
+
+	private final int maxClasspaths;
+
+	// Ordered by access, so the least recently used classpath comes first.
+	private final Map<String, Classpath> classpaths = new LinkedHashMap<String, Classpath>(16, 0.75f, true);
+
+	// The classpath whose classes openpojo's PojoCache currently describes.
+	private String pojoCacheClasspath;
+
+	private volatile int verificationCount;
+
+	/**
+	 * Binds the daemon to the specified port on the loopback address.
+	 *
+	 * @param port
+	 *            - The port to listen on, or 0 to use any free port.
+	 * @throws IOException
+	 *             If the port cannot be bound.
+	 */
+	public PojoTesterDaemon(int port) throws IOException {
+		this(port, REQUEST_TIMEOUT_MILLIS, MAX_CLASSPATHS);
+	}
+
+	PojoTesterDaemon(int port, int requestTimeoutMillis, int maxClasspaths) throws IOException {
+		this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		this.requestTimeoutMillis = requestTimeoutMillis;
+		this.maxClasspaths = maxClasspaths;
+	}
+
+	/**
+	 * @return The port the daemon is listening on.
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/*
+	 * The number of packages actually scanned and verified, as opposed to answered from a cached result.
+	 */
+	int getVerificationCount() {
+		return verificationCount;
+	}
+
+	/**
+	 * Handles requests until the daemon is closed or a shutdown request is received.
+	 */
+	public void run() {
+		while (!serverSocket.isClosed()) {
+			try (Socket socket = serverSocket.accept()) {
+				handle(socket);
+			} catch (IOException e) {
+				if (!serverSocket.isClosed()) {
+					System.err.println("Request could not be handled: " + e);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+		for (Classpath state : classpaths.values()) {
+			state.classDirectoryLoader.close();
+		}
+	}
+
+	/**
+	 * Starts the daemon and blocks until it is shut down.
+	 *
+	 * @param args
+	 *            - An optional port to listen on, {@value #DEFAULT_PORT} by default.
+	 * @throws IOException
+	 *             If the port cannot be bound.
+	 */
+	public static void main(String[] args) throws IOException {
+		try (PojoTesterDaemon daemon = new PojoTesterDaemon(port(args))) {
+			System.out.println("POJO tester daemon listening on port " + daemon.getPort() + ".");
+			daemon.run();
+		}
+	}
+
+	static int port(String[] args) {
+		return args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+	}
+
+	private void handle(Socket socket) throws IOException {
+		socket.setSoTimeout(requestTimeoutMillis);
+		BufferedReader reader = new BufferedReader(
+				new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+		Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+
+		String request = reader.readLine();
+		String[] parts = request == null ? new String[0] : request.split("\t", -1);
+
+		String response;
+		if (parts.length == 1 && PojoTesterClient.SHUTDOWN.equals(parts[0])) {
+			response = PojoTesterClient.PASS + '\n';
+			serverSocket.close();
+		} else if (parts.length == 3 && PojoTesterClient.VERIFY.equals(parts[0])) {
+			response = verify(parts[1], parts[2]);
+		} else {
+			response = PojoTesterClient.ERROR + "\nUnknown request: " + request + '\n';
+		}
+
+		writer.write(response);
+		writer.flush();
+	}
+
+	private String verify(String packageName, String classpath) throws IOException {
+		Classpath state = classpaths.get(classpath);
+		if (state == null) {
+			List<File> classDirectories = new ArrayList<File>();
+			for (String path : classpath.split(File.pathSeparator)) {
+				if (!path.isEmpty()) {
+					classDirectories.add(new File(path));
+				}
+			}
+			state = new Classpath(new ClassDirectoryLoader(classDirectories));
+			classpaths.put(classpath, state);
+
+			if (classpaths.size() > maxClasspaths) {
+				Iterator<Classpath> iterator = classpaths.values().iterator();
+				Classpath eldest = iterator.next();
+				iterator.remove();
+				eldest.classDirectoryLoader.close();
+			}
+		}
+
+		// Results are not tracked per directory, so any change invalidates the whole classpath.
+		boolean reloaded = state.classDirectoryLoader.refresh();
+		if (reloaded) {
+			state.results.clear();
+		}
+
+		String response = state.results.get(packageName);
+		if (response == null) {
+			// openpojo caches metadata by class name for every classpath, so it must be cleared whenever it could
+			// describe classes from another loader.
+			if (reloaded || !classpath.equals(pojoCacheClasspath)) {
+				PojoCache.clear();
+				pojoCacheClasspath = classpath;
+			}
+
+			verificationCount++;
+			response = verify(packageName, state.classDirectoryLoader);
+			if (!response.startsWith(PojoTesterClient.ERROR)) {
+				state.results.put(packageName, response);
+			}
+		}
+		return response;
+	}
+
+	private static String verify(String packageName, ClassDirectoryLoader classDirectoryLoader) {
+		// openpojo scans packages through the context class loader.
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		ClassLoader classLoader = classDirectoryLoader.getClassLoader();
+		thread.setContextClassLoader(classLoader);
+		try {
+			// openpojo logs and skips classes it cannot load, which would let a broken package pass. Loading and
+			// initializing them here first turns that into an error naming the class.
+			List<String> classNames = classDirectoryLoader.getClassNames(packageName);
+			for (String className : classNames) {
+				Class<?> clazz = Class.forName(className, true, classLoader);
+				clazz.getDeclaredFields();
+				clazz.getDeclaredMethods();
+			}
+
+			VerificationReport report = PojoUtil.verifyAllCollectingFailures(packageName);
+			if (report.getClassNames().isEmpty() && !classNames.isEmpty()) {
+				return PojoTesterClient.ERROR + "\nNo Serializable classes were verified in package " + packageName
+						+ ", although its class directories contain " + classNames.size() + " classes.\n";
+			}
+			return PojoTesterClient.PASS + '\n';
+		} catch (PojoVerificationError e) {
+			return PojoTesterClient.FAIL + '\n' + e.getMessage() + '\n';
+		} catch (ClassNotFoundException | AssertionError | RuntimeException | LinkageError e) {
+			// A LinkageError means a class depends on something missing from the class directories, or its static
+			// initializer failed. It only affects this request, so it must not stop the daemon.
+			return PojoTesterClient.ERROR + '\n' + e + '\n';
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+
+	private static final class Classpath {
+
+		private final ClassDirectoryLoader classDirectoryLoader;
+
+		private final Map<String, String> results = new HashMap<String, String>();
+
+		private Classpath(ClassDirectoryLoader classDirectoryLoader) {
+			this.classDirectoryLoader = classDirectoryLoader;
+		}
+	}
+}
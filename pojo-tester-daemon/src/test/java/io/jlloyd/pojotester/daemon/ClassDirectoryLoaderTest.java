@@ -0,0 +1,167 @@
+package io.jlloyd.pojotester.daemon;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ClassDirectoryLoaderTest {
+
+	@Test
+	public void testRefresh() throws IOException {
+		File first = Files.createTempDirectory("classes").toFile();
+		File second = Files.createTempDirectory("classes").toFile();
+		File file = new File(second, "Test.class");
+		Files.write(file.toPath(), "before".getBytes(StandardCharsets.UTF_8));
+
+		try (ClassDirectoryLoader loader = new ClassDirectoryLoader(Arrays.asList(first, second))) {
+			assertTrue(loader.refresh());
+			ClassLoader classLoader = loader.getClassLoader();
+			ClassLoader parent = classLoader.getParent();
+
+			assertFalse(loader.refresh());
+			assertSame(classLoader, loader.getClassLoader());
+
+			// Only the loader of the changed directory is replaced.
+			Files.write(file.toPath(), "after, with a different size".getBytes(StandardCharsets.UTF_8));
+			assertTrue(loader.refresh());
+			assertNotSame(classLoader, loader.getClassLoader());
+			assertSame(parent, loader.getClassLoader().getParent());
+		} finally {
+			file.delete();
+			second.delete();
+			first.delete();
+		}
+	}
+
+	@Test
+	public void testRefresh_NoDirectories() throws IOException {
+		try (ClassDirectoryLoader loader = new ClassDirectoryLoader(Collections.<File> emptyList())) {
+			assertFalse(loader.refresh());
+			assertSame(ClassDirectoryLoader.class.getClassLoader(), loader.getClassLoader());
+		}
+	}
+
+	@Test
+	public void testGetClassNames() throws IOException {
+		File first = Files.createTempDirectory("classes").toFile();
+		File second = Files.createTempDirectory("classes").toFile();
+		File subpackage = new File(second, "test/sub");
+		assertTrue(subpackage.mkdirs());
+		Files.write(new File(second, "test/B.class").toPath(), new byte[0]);
+		Files.write(new File(second, "test/A.class").toPath(), new byte[0]);
+		Files.write(new File(second, "test/README.txt").toPath(), new byte[0]);
+		Files.write(new File(subpackage, "C.class").toPath(), new byte[0]);
+
+		// The first directory has no test package at all.
+		try (ClassDirectoryLoader loader = new ClassDirectoryLoader(Arrays.asList(first, second))) {
+			assertEquals(Arrays.asList("test.A", "test.B", "test.sub.C"), loader.getClassNames("test"));
+			assertEquals(Collections.<String> emptyList(), loader.getClassNames("missing"));
+		} finally {
+			delete(second);
+			first.delete();
+		}
+	}
+
+	@Test
+	public void testClose_NotRefreshed() throws IOException {
+		new ClassDirectoryLoader(Arrays.asList(new File("classes"))).close();
+	}
+
+	@Test
+	public void testRefresh_ChangedFiles() throws IOException {
+		File directory = Files.createTempDirectory("classes").toFile();
+		File file = new File(directory, "Test.class");
+		File other = new File(directory, "Other.class");
+		try (ClassDirectoryLoader loader = new ClassDirectoryLoader(Arrays.asList(directory))) {
+			assertTrue(loader.refresh());
+			assertFalse(loader.refresh());
+
+			Files.write(file.toPath(), "test".getBytes(StandardCharsets.UTF_8));
+			assertTrue(loader.refresh());
+			assertFalse(loader.refresh());
+
+			// A recompile can keep the size and, with one-second timestamps, the modification time.
+			long lastModified = file.lastModified();
+			Files.write(file.toPath(), "tent".getBytes(StandardCharsets.UTF_8));
+			assertTrue(file.setLastModified(lastModified));
+			assertTrue(loader.refresh());
+
+			// Once the modification time can be trusted, the contents are no longer hashed.
+			long old = System.currentTimeMillis() - 5 * ClassDirectoryLoader.TIMESTAMP_RESOLUTION_MILLIS;
+			assertTrue(file.setLastModified(old));
+			assertTrue(loader.refresh());
+			assertFalse(loader.refresh());
+			Files.write(file.toPath(), "text".getBytes(StandardCharsets.UTF_8));
+			assertTrue(file.setLastModified(old));
+			assertFalse(loader.refresh());
+
+			Files.write(file.toPath(), "a different size".getBytes(StandardCharsets.UTF_8));
+			assertTrue(file.setLastModified(old));
+			assertTrue(loader.refresh());
+
+			Files.write(other.toPath(), "other".getBytes(StandardCharsets.UTF_8));
+			assertTrue(other.setLastModified(old));
+			assertTrue(loader.refresh());
+			assertTrue(other.delete());
+			assertTrue(loader.refresh());
+		} finally {
+			delete(directory);
+		}
+	}
+
+	@Test
+	public void testRefresh_RecentFileAged() throws IOException, InterruptedException {
+		File directory = Files.createTempDirectory("classes").toFile();
+		File file = new File(directory, "Test.class");
+		try (ClassDirectoryLoader loader = new ClassDirectoryLoader(Arrays.asList(directory))) {
+			long lastModified = System.currentTimeMillis() - ClassDirectoryLoader.TIMESTAMP_RESOLUTION_MILLIS + 500;
+			Files.write(file.toPath(), "test".getBytes(StandardCharsets.UTF_8));
+			assertTrue(file.setLastModified(lastModified));
+			assertTrue(loader.refresh());
+
+			// The contents are hashed once more after the modification time becomes trustworthy.
+			Files.write(file.toPath(), "tent".getBytes(StandardCharsets.UTF_8));
+			assertTrue(file.setLastModified(lastModified));
+			Thread.sleep(1000);
+			assertTrue(loader.refresh());
+			assertFalse(loader.refresh());
+		} finally {
+			delete(directory);
+		}
+	}
+
+	@Test
+	public void testRefresh_MissingDirectory() throws IOException {
+		File directory = Files.createTempDirectory("classes").toFile();
+		assertTrue(directory.delete());
+
+		try (ClassDirectoryLoader loader = new ClassDirectoryLoader(Arrays.asList(directory))) {
+			assertTrue(loader.refresh());
+			assertFalse(loader.refresh());
+		}
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+}
@@ -0,0 +1,374 @@
+package io.jlloyd.pojotester.daemon;
+
+import static io.jlloyd.pojotester.ClassUtil.verifyPrivateNoArgConstructor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class PojoTesterDaemonTest {
+
+	private static final int REQUEST_TIMEOUT_MILLIS = 500;
+
+	private static final int MAX_CLASSPATHS = 2;
+
+	private static final String POJO_PACKAGE = "io.jlloyd.pojotester.test.objects.pojo";
+
+	// Classes in this package are compiled by the tests into directories outside the daemon's classpath.
+	private static final String RELOAD_PACKAGE = "io.jlloyd.pojotester.daemon.reload";
+
+	private static final String RELOADED_POJO_SOURCE = "package " + RELOAD_PACKAGE + ";\n" //
+			+ "public class ReloadedPojo implements java.io.Serializable {\n" //
+			+ "%s\n" //
+			+ "	private String test;\n" //
+			+ "	public String getTest() { return test; }\n" //
+			+ "	public void setTest(String test) { this.test = test; }\n" //
+			+ "	@Override public int hashCode() { return 31 + ((test == null) ? 0 : test.hashCode()); }\n" //
+			+ "	@Override public boolean equals(Object obj) {\n" //
+			+ "		if (this == obj) { return true; }\n" //
+			+ "		if (obj == null || getClass() != obj.getClass()) { return false; }\n" //
+			+ "		ReloadedPojo other = (ReloadedPojo) obj;\n" //
+			+ "		return test == null ? other.test == null : test.equals(other.test);\n" //
+			+ "	}\n" //
+			+ "	@Override public String toString() { return \"ReloadedPojo [test=\" + test + \"]\"; }\n" //
+			+ "}\n";
+
+	private PojoTesterDaemon daemon;
+
+	private Thread thread;
+
+	private List<File> classDirectories;
+
+	@Before
+	public void setUp() throws IOException {
+		daemon = new PojoTesterDaemon(0, REQUEST_TIMEOUT_MILLIS, MAX_CLASSPATHS);
+		thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				daemon.run();
+			}
+		});
+		thread.start();
+
+		// The fixtures come from the pojo-tester test-jar on the daemon's own classpath.
+		classDirectories = Collections.emptyList();
+	}
+
+	@After
+	public void tearDown() throws IOException, InterruptedException {
+		daemon.close();
+		thread.join();
+	}
+
+	@Test
+	public void testClientInstantiation() {
+		verifyPrivateNoArgConstructor(PojoTesterClient.class);
+	}
+
+	@Test
+	public void testVerifyAll() {
+		PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, classDirectories);
+		assertEquals(1, daemon.getVerificationCount());
+
+		// The second request is answered from the cached result.
+		PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, classDirectories);
+		assertEquals(1, daemon.getVerificationCount());
+	}
+
+	@Test
+	public void testVerifyAll_ReloadsChangedClasses() throws IOException {
+		File directory = Files.createTempDirectory("classes").toFile();
+		List<File> reloadDirectories = Arrays.asList(directory);
+		try {
+			compile(directory, "ReloadedPojo", String.format(RELOADED_POJO_SOURCE, "@SuppressWarnings(\"serial\")"));
+			for (int i = 0; i < 2; i++) {
+				String message = verifyAllExpectingFailure(RELOAD_PACKAGE, reloadDirectories);
+				assertTrue(message.startsWith("Verification failed for 1 of 1 classes"));
+				assertTrue(message.contains("serialVersionUID"));
+			}
+			// The unchanged directory is not scanned again.
+			assertEquals(1, daemon.getVerificationCount());
+
+			compile(directory, "ReloadedPojo",
+					String.format(RELOADED_POJO_SOURCE, "	private static final long serialVersionUID = 1L;"));
+			PojoTesterClient.verifyAll(daemon.getPort(), RELOAD_PACKAGE, reloadDirectories);
+			assertEquals(2, daemon.getVerificationCount());
+		} finally {
+			delete(directory);
+		}
+	}
+
+	@Test
+	public void testVerifyAll_MissingDependency() throws IOException {
+		File directory = Files.createTempDirectory("classes").toFile();
+		List<File> reloadDirectories = Arrays.asList(directory);
+		try {
+			compile(directory, "Dependency", "package " + RELOAD_PACKAGE + "; public class Dependency {}");
+			compile(directory, "Holder", "package " + RELOAD_PACKAGE + ";\n" //
+					+ "public class Holder implements java.io.Serializable {\n" //
+					+ "	private static final long serialVersionUID = 1L;\n" //
+					+ "	private Dependency dependency;\n" //
+					+ "	public Dependency getDependency() { return dependency; }\n" //
+					+ "	public void setDependency(Dependency dependency) { this.dependency = dependency; }\n" //
+					+ "}\n");
+			assertTrue(new File(directory, RELOAD_PACKAGE.replace('.', '/') + "/Dependency.class").delete());
+
+			// openpojo would skip the class and pass the package, so the daemon reports the class it cannot load.
+			String message = verifyAllExpectingFailure(RELOAD_PACKAGE, reloadDirectories);
+			assertTrue(message.startsWith("Package " + RELOAD_PACKAGE + " cannot be verified by the daemon: "));
+			assertTrue(message.contains("NoClassDefFoundError"));
+			assertTrue(message.contains("Dependency"));
+		} finally {
+			delete(directory);
+		}
+	}
+
+	@Test
+	public void testVerifyAll_FailingStaticInitializer() throws IOException {
+		File directory = Files.createTempDirectory("classes").toFile();
+		List<File> reloadDirectories = Arrays.asList(directory);
+		try {
+			compile(directory, "BrokenInitializer", "package " + RELOAD_PACKAGE + ";\n" //
+					+ "public class BrokenInitializer implements java.io.Serializable {\n" //
+					+ "	private static final long serialVersionUID = 1L;\n" //
+					+ "	static { if (true) { throw new IllegalStateException(\"Broken.\"); } }\n" //
+					+ "	@Override public String toString() { return \"BrokenInitializer []\"; }\n" //
+					+ "}\n");
+
+			// The first request fails with an ExceptionInInitializerError and the second with a NoClassDefFoundError.
+			// Errors are not cached, so both requests are verified, and the daemon keeps serving afterwards.
+			String prefix = "Package " + RELOAD_PACKAGE + " cannot be verified by the daemon: ";
+			assertTrue(verifyAllExpectingFailure(RELOAD_PACKAGE, reloadDirectories)
+					.startsWith(prefix + "java.lang.ExceptionInInitializerError"));
+			assertTrue(verifyAllExpectingFailure(RELOAD_PACKAGE, reloadDirectories)
+					.startsWith(prefix + "java.lang.NoClassDefFoundError"));
+			assertEquals(2, daemon.getVerificationCount());
+
+			PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, classDirectories);
+		} finally {
+			delete(directory);
+		}
+	}
+
+	@Test
+	public void testVerifyAll_NoSerializableClasses() throws IOException {
+		File directory = Files.createTempDirectory("classes").toFile();
+		try {
+			compile(directory, "NotSerializable", "package " + RELOAD_PACKAGE + "; public class NotSerializable {}");
+
+			assertEquals("Package " + RELOAD_PACKAGE + " cannot be verified by the daemon: No Serializable classes "
+					+ "were verified in package " + RELOAD_PACKAGE
+					+ ", although its class directories contain 1 classes.",
+					verifyAllExpectingFailure(RELOAD_PACKAGE, Arrays.asList(directory)));
+
+			// A package without any classes has nothing to verify.
+			PojoTesterClient.verifyAll(daemon.getPort(), RELOAD_PACKAGE + ".empty", Arrays.asList(directory));
+		} finally {
+			delete(directory);
+		}
+	}
+
+	@Test
+	public void testVerifyAll_MultipleDirectories() throws IOException {
+		File first = Files.createTempDirectory("classes").toFile();
+		File second = Files.createTempDirectory("classes").toFile();
+		try {
+			compile(second, "ReloadedPojo",
+					String.format(RELOADED_POJO_SOURCE, "	private static final long serialVersionUID = 1L;"));
+
+			PojoTesterClient.verifyAll(daemon.getPort(), RELOAD_PACKAGE, Arrays.asList(first, second));
+			assertEquals(1, daemon.getVerificationCount());
+		} finally {
+			delete(first);
+			delete(second);
+		}
+	}
+
+	@Test
+	public void testVerifyAll_EvictsLeastRecentlyUsedClasspath() throws IOException {
+		File first = Files.createTempDirectory("classes").toFile();
+		File second = Files.createTempDirectory("classes").toFile();
+		try {
+			PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, Arrays.asList(first));
+			PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, Arrays.asList(second));
+			PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, Arrays.asList(first));
+			assertEquals(2, daemon.getVerificationCount());
+
+			// A third classpath evicts the second, which is then verified again.
+			PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, classDirectories);
+			PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, Arrays.asList(second));
+			assertEquals(4, daemon.getVerificationCount());
+		} finally {
+			first.delete();
+			second.delete();
+		}
+	}
+
+	@Test
+	public void testVerifyAll_Failures() {
+		for (int i = 0; i < 2; i++) {
+			String message = verifyAllExpectingFailure("io.jlloyd.pojotester.test.objects.tostring", classDirectories);
+			assertTrue(message.startsWith("Verification failed for 1 of 1 classes"));
+			assertTrue(message.contains("serialVersionUID"));
+		}
+	}
+
+	@Test
+	public void testShutdown() throws InterruptedException {
+		int port = daemon.getPort();
+		PojoTesterClient.shutdown(port);
+		thread.join();
+
+		try {
+			PojoTesterClient.verifyAll(port, POJO_PACKAGE, classDirectories);
+		} catch (AssertionError e) {
+			assertEquals("Daemon on port " + port + " cannot be reached.", e.getMessage());
+			return;
+		}
+		fail();
+	}
+
+	@Test
+	public void testUnknownRequests() throws IOException {
+		assertEquals("ERROR\nUnknown request: null\n", request(null));
+		assertEquals("ERROR\nUnknown request: HELLO\n", request("HELLO"));
+		assertEquals("ERROR\nUnknown request: SHUTDOWN\tnow\n", request("SHUTDOWN\tnow"));
+		assertEquals("ERROR\nUnknown request: HELLO\ta\tb\n", request("HELLO\ta\tb"));
+	}
+
+	@Test
+	public void testRequestTimeout() throws IOException {
+		// A connection that never sends a request is dropped, and the requests behind it are still handled.
+		try (Socket idle = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+			idle.setSoTimeout(REQUEST_TIMEOUT_MILLIS * 10);
+			assertEquals(-1, idle.getInputStream().read());
+		}
+
+		PojoTesterClient.verifyAll(daemon.getPort(), POJO_PACKAGE, classDirectories);
+	}
+
+	@Test
+	public void testMain() throws IOException, InterruptedException {
+		int port;
+		try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			port = serverSocket.getLocalPort();
+		}
+
+		final String[] args = { String.valueOf(port) };
+		Thread mainThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					PojoTesterDaemon.main(args);
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		});
+		mainThread.start();
+
+		// Retry until the daemon has bound the port.
+		for (int attempt = 0;; attempt++) {
+			try {
+				PojoTesterClient.shutdown(port);
+				break;
+			} catch (AssertionError e) {
+				if (attempt == 100) {
+					throw e;
+				}
+				Thread.sleep(50);
+			}
+		}
+		mainThread.join();
+	}
+
+	@Test
+	public void testPort() {
+		assertEquals(PojoTesterDaemon.DEFAULT_PORT, PojoTesterDaemon.port(new String[0]));
+		assertEquals(1234, PojoTesterDaemon.port(new String[] { "1234" }));
+	}
+
+	/*
+	 * Returns the message of the expected failure. fail() is called outside the catch block, so its own AssertionError
+	 * is not mistaken for the expected one.
+	 */
+	private String verifyAllExpectingFailure(String packageName, List<File> directories) {
+		try {
+			PojoTesterClient.verifyAll(daemon.getPort(), packageName, directories);
+		} catch (AssertionError e) {
+			return e.getMessage();
+		}
+		fail();
+		return null;
+	}
+
+	/*
+	 * Compiles a single source file into the class directory, replacing any previous version of the class.
+	 */
+	private static void compile(File directory, String className, String source) throws IOException {
+		File sourceDirectory = Files.createTempDirectory("sources").toFile();
+		File sourceFile = new File(sourceDirectory, className + ".java");
+		try {
+			Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+			JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+			assertEquals(0, compiler.run(null, null, null, "-cp", directory.getPath(), "-d", directory.getPath(),
+					sourceFile.getPath()));
+		} finally {
+			delete(sourceDirectory);
+		}
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	/*
+	 * Sends a raw request line, or only connects and closes the output if the request is null, and returns the whole
+	 * response.
+	 */
+	private String request(String request) throws IOException {
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+			socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS * 10);
+			if (request != null) {
+				socket.getOutputStream().write((request + '\n').getBytes(StandardCharsets.UTF_8));
+			}
+			socket.shutdownOutput();
+
+			ByteArrayOutputStream response = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			for (int read = socket.getInputStream().read(buffer); read >= 0; read = socket.getInputStream()
+					.read(buffer)) {
+				response.write(buffer, 0, read);
+			}
+			return new String(response.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -1,9 +1,20 @@
 package io.jlloyd.pojotester;
 
+import java.io.File;
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
@@ -55,12 +66,7 @@ public final class PojoUtil {
 	 *             fails.
 	 */
 	public static void verifyAll(String packageName) {
-		List<Rule> ruleList = Arrays.asList(new GetterMustExistRule(), new SetterMustExistRule(),
-				new SerializableMustHaveSerialVersionUIDRule(), new NoFieldShadowingRule(),
-				new NoPublicFieldsExceptStaticFinalRule());
-		List<Tester> testerList = Arrays.asList(new SetterTester(), new GetterTester());
-
-		verifyAll(packageName, ruleList, testerList);
+		verifyAll(packageName, defaultRules(), defaultTesters());
 	}
 
 	/**
@@ -95,6 +101,95 @@ public final class PojoUtil {
 		}
 	}
 
+	/**
+	 * <p>
+	 * This method will verify the POJOs in the specified package in collect-all mode. Unlike
+	 * {@link #verifyAll(String)}, verification continues after a failure so every failing class and stage is reported
+	 * in a single run. Only classes that are {@link Serializable} will be evaluated. The following rules will be
+	 * processed:
+	 * </p>
+	 * <ol>
+	 * <li>Getters and setters have been created and work as expected.</li>
+	 * <li>A serialVersionUID has been defined.</li>
+	 * <li>There is no field shadowing. (i.e. name = name, but rather this.name = name)</li>
+	 * <li>There are no non-static public fields.</li>
+	 * <li>Equals and hashCode have been defined and are working correctly.</li>
+	 * <li>toString has been defined.</li>
+	 * </ol>
+	 * 
+	 * @param packageName
+	 *            - The package name to scan for {@link Serializable} beans.
+	 * @return The report of the verified classes.
+	 * @throws PojoVerificationError
+	 *             If any class fails verification, listing every failure.
+	 */
+	public static VerificationReport verifyAllCollectingFailures(String packageName) {
+		return verifyAllCollectingFailures(packageName, defaultRules(), defaultTesters());
+	}
+
+	/**
+	 * <p>
+	 * This method will verify the POJOs in the specified package in collect-all mode. Unlike
+	 * {@link #verifyAll(String, List, List)}, verification continues after a failure so every failing class and stage
+	 * is reported in a single run. Only classes that are {@link Serializable} will be evaluated. The specified
+	 * {@link Rule}s and {@link Tester}s will be used for verification, as well as applying the following:
+	 * </p>
+	 * <ol>
+	 * <li>Equals and hashCode have been defined and are working correctly.</li>
+	 * <li>toString has been defined.</li>
+	 * </ol>
+	 * 
+	 * @param packageName
+	 *            - The package name to scan for {@link Serializable} beans.
+	 * @param ruleList
+	 *            - A list of {@link Rule}s to run during the verification.
+	 * @param testerList
+	 *            - A list of {@link Tester}s to run during the verification.
+	 * @return The report of the verified classes.
+	 * @throws PojoVerificationError
+	 *             If any class fails verification, listing every failure.
+	 */
+	public static VerificationReport verifyAllCollectingFailures(String packageName, List<Rule> ruleList,
+			List<Tester> testerList) {
+		VerificationReport report = verifyAllCollectingFailuresImpl(packageName, ruleList, testerList);
+
+		if (!report.getFailures().isEmpty()) {
+			throw new PojoVerificationError(report);
+		}
+		return report;
+	}
+
+	/**
+	 * This method behaves like {@link #verifyAllCollectingFailures(String, List, List)}, and also writes the report to
+	 * the specified file before any failure is thrown.
+	 * 
+	 * @param packageName
+	 *            - The package name to scan for {@link Serializable} beans.
+	 * @param ruleList
+	 *            - A list of {@link Rule}s to run during the verification.
+	 * @param testerList
+	 *            - A list of {@link Tester}s to run during the verification.
+	 * @param reportFile
+	 *            - The file to write the report to.
+	 * @param reportFormat
+	 *            - The format to write the report in.
+	 * @return The report of the verified classes.
+	 * @throws PojoVerificationError
+	 *             If any class fails verification, listing every failure.
+	 * @throws AssertionError
+	 *             If the report cannot be written.
+	 */
+	public static VerificationReport verifyAllCollectingFailures(String packageName, List<Rule> ruleList,
+			List<Tester> testerList, File reportFile, ReportFormat reportFormat) {
+		VerificationReport report = verifyAllCollectingFailuresImpl(packageName, ruleList, testerList);
+		report.write(reportFile, reportFormat);
+
+		if (!report.getFailures().isEmpty()) {
+			throw new PojoVerificationError(report);
+		}
+		return report;
+	}
+
 	/**
 	 * <p>
 	 * This method will verify the class specified. The following rules will be processed:
@@ -115,12 +210,7 @@ public final class PojoUtil {
 	 *             fails.
 	 */
 	public static void verifyAll(Class<?> clazz) {
-		List<Rule> ruleList = Arrays.asList(new GetterMustExistRule(), new SetterMustExistRule(),
-				new SerializableMustHaveSerialVersionUIDRule(), new NoFieldShadowingRule(),
-				new NoPublicFieldsExceptStaticFinalRule());
-		List<Tester> testerList = Arrays.asList(new SetterTester(), new GetterTester());
-
-		verifyAll(clazz, ruleList, testerList);
+		verifyAll(clazz, defaultRules(), defaultTesters());
 	}
 
 	/**
@@ -173,6 +263,158 @@ public final class PojoUtil {
 				buildValidator(ruleList, testerList));
 	}
 
+	/**
+	 * <p>
+	 * This method will verify each of the supplied instances. The following rules will be processed:
+	 * </p>
+	 * <ol>
+	 * <li>Getters and setters have been created and work as expected.</li>
+	 * <li>A serialVersionUID has been defined.</li>
+	 * <li>There is no field shadowing. (i.e. name = name, but rather this.name = name)</li>
+	 * <li>There are no non-static public fields.</li>
+	 * <li>Equals and hashCode have been defined and are working correctly.</li>
+	 * <li>toString has been defined.</li>
+	 * </ol>
+	 * 
+	 * @param objects
+	 *            - The instances to test. <i>This will not work for nested classes.</i>
+	 * @return The report of the verified classes.
+	 * @throws PojoVerificationError
+	 *             If any class fails verification, listing every failure.
+	 * @throws IllegalArgumentException
+	 *             If any of the instances is null.
+	 * @see #verifyAllFromInstances(Collection, List, List)
+	 */
+	public static VerificationReport verifyAllFromInstances(Object... objects) {
+		return verifyAllFromInstances(Arrays.asList(objects), defaultRules(), defaultTesters());
+	}
+
+	/**
+	 * <p>
+	 * This method will verify each of the supplied instances. The following rules will be processed:
+	 * </p>
+	 * <ol>
+	 * <li>Getters and setters have been created and work as expected.</li>
+	 * <li>A serialVersionUID has been defined.</li>
+	 * <li>There is no field shadowing. (i.e. name = name, but rather this.name = name)</li>
+	 * <li>There are no non-static public fields.</li>
+	 * <li>Equals and hashCode have been defined and are working correctly.</li>
+	 * <li>toString has been defined.</li>
+	 * </ol>
+	 * 
+	 * @param objects
+	 *            - The instances to test. <i>This will not work for nested classes.</i>
+	 * @return The report of the verified classes.
+	 * @throws PojoVerificationError
+	 *             If any class fails verification, listing every failure.
+	 * @throws IllegalArgumentException
+	 *             If any of the instances is null.
+	 * @see #verifyAllFromInstances(Collection, List, List)
+	 */
+	public static VerificationReport verifyAllFromInstances(Collection<?> objects) {
+		return verifyAllFromInstances(objects, defaultRules(), defaultTesters());
+	}
+
+	/**
+	 * <p>
+	 * This method will verify each of the supplied instances. The specified {@link Rule}s and {@link Tester}s will be
+	 * used for verification, as well as applying the following:
+	 * </p>
+	 * <ol>
+	 * <li>Equals and hashCode have been defined and are working correctly.</li>
+	 * <li>toString has been defined.</li>
+	 * </ol>
+	 * <p>
+	 * The instances are grouped by class so the {@link PojoClass} metadata, rules, testers and equals and hashCode are
+	 * only verified once per class, while toString is verified for every instance. The classes are verified in
+	 * parallel and every failing class and stage is reported in a single {@link PojoVerificationError}.
+	 * </p>
+	 * 
+	 * @param objects
+	 *            - The instances to test. <i>This will not work for nested classes.</i>
+	 * @param ruleList
+	 *            - A list of {@link Rule}s to run during the verification.
+	 * @param testerList
+	 *            - A list of {@link Tester}s to run during the verification.
+	 * @return The report of the verified classes.
+	 * @throws PojoVerificationError
+	 *             If any class fails verification, listing every failure.
+	 * @throws IllegalArgumentException
+	 *             If any of the instances is null.
+	 * @throws AssertionError
+	 *             If the verification is interrupted or a class cannot be verified at all.
+	 */
+	public static VerificationReport verifyAllFromInstances(Collection<?> objects, List<Rule> ruleList,
+			List<Tester> testerList) {
+		Map<Class<?>, List<Object>> instancesByClass = new LinkedHashMap<Class<?>, List<Object>>();
+		for (Object object : objects) {
+			if (object == null) {
+				throw new IllegalArgumentException("Instances to verify must not be null.");
+			}
+
+			List<Object> instances = instancesByClass.get(object.getClass());
+			if (instances == null) {
+				instances = new ArrayList<Object>();
+				instancesByClass.put(object.getClass(), instances);
+			}
+			instances.add(object);
+		}
+
+		VerificationReport report = new VerificationReport(null);
+		if (instancesByClass.isEmpty()) {
+			return report;
+		}
+
+		final Validator validator = buildValidator(ruleList, testerList);
+		final CountDownLatch latch = new CountDownLatch(instancesByClass.size());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+				Math.min(instancesByClass.size(), Runtime.getRuntime().availableProcessors()));
+		try {
+			Map<Class<?>, Future<List<VerificationFailure>>> futures = //
+					new LinkedHashMap<Class<?>, Future<List<VerificationFailure>>>();
+			for (final Map.Entry<Class<?>, List<Object>> entry : instancesByClass.entrySet()) {
+				futures.put(entry.getKey(), executorService.submit(new Callable<List<VerificationFailure>>() {
+					@Override
+					public List<VerificationFailure> call() {
+						try {
+							return verifyStages(PojoClassFactory.getPojoClass(entry.getKey()), validator,
+									entry.getValue());
+						} finally {
+							latch.countDown();
+						}
+					}
+				}));
+			}
+
+			// Waiting on the latch rather than the futures means an interrupt is always noticed, even when every class
+			// has already been verified.
+			latch.await();
+
+			for (Map.Entry<Class<?>, Future<List<VerificationFailure>>> entry : futures.entrySet()) {
+				report.addClassName(entry.getKey().getName());
+				try {
+					for (VerificationFailure failure : entry.getValue().get()) {
+						report.addFailure(failure);
+					}
+				} catch (ExecutionException e) {
+					throw new AssertionError("Class " + entry.getKey().getName() + " cannot be verified.",
+							e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AssertionError("Verification was interrupted.", e);
+		} finally {
+			executorService.shutdownNow();
+		}
+
+		if (!report.getFailures().isEmpty()) {
+			throw new PojoVerificationError(report);
+		}
+		return report;
+	}
+
 	/**
 	 * Verifies equals and hashCode for a class.
 	 * 
@@ -234,6 +476,16 @@ public final class PojoUtil {
 		}
 	}
 
+	private static List<Rule> defaultRules() {
+		return Arrays.<Rule> asList(new GetterMustExistRule(), new SetterMustExistRule(),
+				new SerializableMustHaveSerialVersionUIDRule(), new NoFieldShadowingRule(),
+				new NoPublicFieldsExceptStaticFinalRule());
+	}
+
+	private static List<Tester> defaultTesters() {
+		return Arrays.<Tester> asList(new SetterTester(), new GetterTester());
+	}
+
 	private static Validator buildValidator(List<Rule> ruleList, List<Tester> testerList) {
 		return ValidatorBuilder.create().with(ruleList.toArray(new Rule[ruleList.size()]))
 				.with(testerList.toArray(new Tester[testerList.size()])).build();
@@ -245,10 +497,63 @@ public final class PojoUtil {
 		verifyToString(clazz);
 	}
 
+	private static VerificationReport verifyAllCollectingFailuresImpl(String packageName, List<Rule> ruleList,
+			List<Tester> testerList) {
+		Validator validator = buildValidator(ruleList, testerList);
+
+		List<PojoClass> pojoClasses = PojoClassFactory.getPojoClassesRecursively(packageName,
+				new FilterBasedOnInheritance(Serializable.class));
+
+		VerificationReport report = new VerificationReport(packageName);
+		for (PojoClass pojoClass : pojoClasses) {
+			report.addClassName(pojoClass.getName());
+			for (VerificationFailure failure : verifyStages(pojoClass, validator, null)) {
+				report.addFailure(failure);
+			}
+		}
+		return report;
+	}
+
 	private static void verifyAllFromInstanceImpl(PojoClass pojoClass, Class<?> clazz, Object object,
 			Validator validator) {
 		validator.validate(pojoClass);
 		verifyEqualsAndHashCode(clazz);
 		verifyToStringFromInstance(object);
 	}
-}
\ No newline at end of file
+
+	/*
+	 * Runs each stage on its own so a failure does not hide the failures of the stages after it. toString is verified
+	 * on the supplied instances, or on a new instance if none are supplied.
+	 */
+	private static List<VerificationFailure> verifyStages(PojoClass pojoClass, Validator validator,
+			List<Object> objects) {
+		String className = pojoClass.getName();
+		Class<?> clazz = pojoClass.getClazz();
+		List<VerificationFailure> failures = new ArrayList<VerificationFailure>();
+
+		try {
+			validator.validate(pojoClass);
+		} catch (AssertionError | RuntimeException e) {
+			failures.add(new VerificationFailure(className, VerificationStage.RULES, e));
+		}
+
+		try {
+			verifyEqualsAndHashCode(clazz);
+		} catch (AssertionError | RuntimeException e) {
+			failures.add(new VerificationFailure(className, VerificationStage.EQUALS_AND_HASH_CODE, e));
+		}
+
+		try {
+			if (objects == null) {
+				verifyToString(clazz);
+			} else {
+				for (Object object : objects) {
+					verifyToStringFromInstance(object);
+				}
+			}
+		} catch (AssertionError | RuntimeException e) {
+			failures.add(new VerificationFailure(className, VerificationStage.TO_STRING, e));
+		}
+		return failures;
+	}
+}
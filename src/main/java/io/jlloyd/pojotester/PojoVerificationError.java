@@ -0,0 +1,45 @@
+package io.jlloyd.pojotester;
+
+/**
+ * Composite {@link AssertionError} thrown when one or more classes fail verification in collect-all mode or when
+ * verifying instances in bulk. Every failure is listed in the message and available from the
+ * {@link VerificationReport}.
+ * 
+ * @author lloydjm77
+ */
+public class PojoVerificationError extends AssertionError {
+
+	private static final long serialVersionUID = 4190634738271952813L;
+
+	private final transient VerificationReport report;
+
+	PojoVerificationError(VerificationReport report) {
+		super(buildMessage(report));
+		this.report = report;
+
+		for (VerificationFailure failure : report.getFailures()) {
+			addSuppressed(failure.getCause());
+		}
+	}
+
+	/**
+	 * @return The report containing every verified class and every failure.
+	 */
+	public VerificationReport getReport() {
+		return report;
+	}
+
+	private static String buildMessage(VerificationReport report) {
+		StringBuilder message = new StringBuilder();
+		message.append("Verification failed for ").append(report.getFailedClassNames().size()).append(" of ")
+				.append(report.getClassNames().size()).append(" classes");
+		if (report.getPackageName() != null) {
+			message.append(" in package ").append(report.getPackageName());
+		}
+		message.append(':');
+		for (VerificationFailure failure : report.getFailures()) {
+			message.append(System.lineSeparator()).append(failure);
+		}
+		return message.toString();
+	}
+}
@@ -0,0 +1,19 @@
+package io.jlloyd.pojotester;
+
+/**
+ * The formats a {@link VerificationReport} can be written in.
+ * 
+ * @author lloydjm77
+ */
+public enum ReportFormat {
+
+	/**
+	 * A JSON document listing every verified class and every failure.
+	 */
+	JSON,
+
+	/**
+	 * A JUnit XML test suite with a test case for every verified class, readable by CI servers.
+	 */
+	JUNIT_XML
+}
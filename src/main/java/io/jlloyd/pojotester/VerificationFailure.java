@@ -0,0 +1,54 @@
+package io.jlloyd.pojotester;
+
+/**
+ * A single failure recorded while verifying a class.
+ * 
+ * @author lloydjm77
+ */
+public final class VerificationFailure {
+
+	private final String className;
+
+	private final VerificationStage stage;
+
+	private final Throwable cause;
+
+	VerificationFailure(String className, VerificationStage stage, Throwable cause) {
+		this.className = className;
+		this.stage = stage;
+		this.cause = cause;
+	}
+
+	/**
+	 * @return The name of the class that failed verification.
+	 */
+	public String getClassName() {
+		return className;
+	}
+
+	/**
+	 * @return The stage that failed.
+	 */
+	public VerificationStage getStage() {
+		return stage;
+	}
+
+	/**
+	 * @return The message of the exception thrown by the failing stage.
+	 */
+	public String getMessage() {
+		return cause.getMessage();
+	}
+
+	/**
+	 * @return The exception thrown by the failing stage.
+	 */
+	public Throwable getCause() {
+		return cause;
+	}
+
+	@Override
+	public String toString() {
+		return className + " [" + stage + "]: " + getMessage();
+	}
+}
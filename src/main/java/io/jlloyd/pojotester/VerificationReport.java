@@ -0,0 +1,208 @@
+package io.jlloyd.pojotester;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The result of verifying every class in a package in collect-all mode, or a collection of instances in bulk. It
+ * records each verified class along with every failure, and can be written to disk as JSON or JUnit XML.
+ *
+ * @author lloydjm77
+ */
+public final class VerificationReport {
+
+	private final String packageName;
+
+	private final List<String> classNames = new ArrayList<String>();
+
+	private final List<VerificationFailure> failures = new ArrayList<VerificationFailure>();
+
+	VerificationReport(String packageName) {
+		this.packageName = packageName;
+	}
+
+	void addClassName(String className) {
+		classNames.add(className);
+	}
+
+	void addFailure(VerificationFailure failure) {
+		failures.add(failure);
+	}
+
+	/**
+	 * @return The package that was scanned, or null if instances were verified.
+	 */
+	public String getPackageName() {
+		return packageName;
+	}
+
+	/**
+	 * @return The names of every verified class, in the order they were verified.
+	 */
+	public List<String> getClassNames() {
+		return Collections.unmodifiableList(classNames);
+	}
+
+	/**
+	 * @return Every failure, in the order they were recorded.
+	 */
+	public List<VerificationFailure> getFailures() {
+		return Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * @return The names of the classes with at least one failure.
+	 */
+	public Set<String> getFailedClassNames() {
+		Set<String> failedClassNames = new LinkedHashSet<String>();
+		for (VerificationFailure failure : failures) {
+			failedClassNames.add(failure.getClassName());
+		}
+		return failedClassNames;
+	}
+
+	/**
+	 * @return The report as a JSON document.
+	 */
+	public String toJson() {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n  \"package\": ").append(jsonString(packageName)).append(",\n  \"classes\": [");
+		for (int i = 0; i < classNames.size(); i++) {
+			json.append(i == 0 ? "\n    " : ",\n    ").append(jsonString(classNames.get(i)));
+		}
+		json.append("\n  ],\n  \"failures\": [");
+		for (int i = 0; i < failures.size(); i++) {
+			VerificationFailure failure = failures.get(i);
+			json.append(i == 0 ? "\n    " : ",\n    ").append("{\"class\": ")
+					.append(jsonString(failure.getClassName())).append(", \"stage\": ")
+					.append(jsonString(failure.getStage().name())).append(", \"message\": ")
+					.append(jsonString(failure.getMessage())).append('}');
+		}
+		json.append("\n  ]\n}\n");
+		return json.toString();
+	}
+
+	/**
+	 * @return The report as a JUnit XML test suite with one test case per class. Each failing test case lists every
+	 *         failed stage.
+	 */
+	public String toJUnitXml() {
+		StringBuilder xml = new StringBuilder();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<testsuite name=\"").append(xmlString(packageName, true)).append("\" tests=\"")
+				.append(classNames.size()).append("\" failures=\"").append(getFailedClassNames().size())
+				.append("\" errors=\"0\" skipped=\"0\">\n");
+		for (String className : classNames) {
+			xml.append("  <testcase classname=\"").append(xmlString(className, true)).append("\" name=\"verifyAll\"");
+
+			List<VerificationFailure> classFailures = new ArrayList<VerificationFailure>();
+			for (VerificationFailure failure : failures) {
+				if (failure.getClassName().equals(className)) {
+					classFailures.add(failure);
+				}
+			}
+
+			if (classFailures.isEmpty()) {
+				xml.append("/>\n");
+				continue;
+			}
+
+			// JUnit XML allows a single failure per test case, so the first failure is used for the attributes and
+			// every failure is listed in the body.
+			VerificationFailure first = classFailures.get(0);
+			xml.append(">\n    <failure type=\"").append(first.getStage().name()).append("\" message=\"")
+					.append(xmlString(first.getMessage(), true)).append("\">");
+			for (VerificationFailure failure : classFailures) {
+				xml.append('[').append(failure.getStage().name()).append("] ")
+						.append(xmlString(failure.getMessage(), false)).append('\n');
+			}
+			xml.append("</failure>\n  </testcase>\n");
+		}
+		xml.append("</testsuite>\n");
+		return xml.toString();
+	}
+
+	/**
+	 * Writes the report to the specified file, creating any missing parent directories.
+	 *
+	 * @param file
+	 *            - The file to write.
+	 * @param format
+	 *            - The format to write the report in.
+	 * @throws IllegalArgumentException
+	 *             If no format is specified.
+	 * @throws AssertionError
+	 *             If the report cannot be written.
+	 */
+	public void write(File file, ReportFormat format) {
+		if (format == null) {
+			throw new IllegalArgumentException("Report format must be specified.");
+		}
+
+		String content = format == ReportFormat.JSON ? toJson() : toJUnitXml();
+		try {
+			File parent = file.getAbsoluteFile().getParentFile();
+			Files.createDirectories(parent.toPath());
+			Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new AssertionError("Report " + file.getPath() + " cannot be written.", e);
+		}
+	}
+
+	private static String jsonString(String value) {
+		if (value == null) {
+			return "null";
+		}
+
+		StringBuilder json = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			if (c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			} else if (c == '\n') {
+				json.append("\\n");
+			} else if (c < ' ') {
+				json.append(String.format("\\u%04x", (int) c));
+			} else {
+				json.append(c);
+			}
+		}
+		return json.append('"').toString();
+	}
+
+	/*
+	 * Line breaks and tabs are escaped in attribute values, which XML parsers would otherwise normalize to spaces.
+	 */
+	private static String xmlString(String value, boolean attribute) {
+		if (value == null) {
+			return "";
+		}
+
+		StringBuilder xml = new StringBuilder();
+		for (char c : value.toCharArray()) {
+			if (c == '&') {
+				xml.append("&amp;");
+			} else if (c == '<') {
+				xml.append("&lt;");
+			} else if (c == '>') {
+				xml.append("&gt;");
+			} else if (c == '"') {
+				xml.append("&quot;");
+			} else if (attribute && (c == '\t' || c == '\n' || c == '\r')) {
+				xml.append("&#").append((int) c).append(';');
+			} else if (c < ' ' && c != '\t' && c != '\n' && c != '\r') {
+				// Control characters are not allowed in XML 1.0.
+				continue;
+			} else {
+				xml.append(c);
+			}
+		}
+		return xml.toString();
+	}
+}
@@ -0,0 +1,25 @@
+package io.jlloyd.pojotester;
+
+/**
+ * The stages a class passes through when it is verified.
+ * 
+ * @author lloydjm77
+ */
+public enum VerificationStage {
+
+	/**
+	 * The openpojo {@link com.openpojo.validation.rule.Rule}s and {@link com.openpojo.validation.test.Tester}s are
+	 * run.
+	 */
+	RULES,
+
+	/**
+	 * Equals and hashCode are verified.
+	 */
+	EQUALS_AND_HASH_CODE,
+
+	/**
+	 * toString is verified.
+	 */
+	TO_STRING
+}
@@ -3,13 +3,22 @@ package io.jlloyd.pojotester;
 import static io.jlloyd.pojotester.ClassUtil.verifyPrivateNoArgConstructor;
 import static io.jlloyd.pojotester.PojoUtil.verifyAll;
 import static io.jlloyd.pojotester.PojoUtil.verifyAllFromInstance;
+import static io.jlloyd.pojotester.PojoUtil.verifyAllCollectingFailures;
+import static io.jlloyd.pojotester.PojoUtil.verifyAllFromInstances;
 import static io.jlloyd.pojotester.PojoUtil.verifyEqualsAndHashCode;
 import static io.jlloyd.pojotester.PojoUtil.verifyToString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import io.jlloyd.pojotester.PojoUtil;
@@ -20,6 +29,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import com.openpojo.reflection.PojoClass;
 import com.openpojo.validation.rule.Rule;
 import com.openpojo.validation.rule.impl.GetterMustExistRule;
 import com.openpojo.validation.rule.impl.NoFieldShadowingRule;
@@ -54,6 +64,66 @@ public class PojoUtilTest {
 		}
 	}
 
+	@Test
+	public void testVerifyPojosInPackageCollectingFailures() {
+		VerificationReport report = verifyAllCollectingFailures("io.jlloyd.pojotester.test.objects.pojo");
+
+		assertEquals(Arrays.asList(PositivePojoTestObject.class.getName()), report.getClassNames());
+		assertTrue(report.getFailures().isEmpty());
+	}
+
+	@Test
+	public void testVerifyPojosInPackageCollectingFailures_Failures() {
+		try {
+			verifyAllCollectingFailures("io.jlloyd.pojotester.test.objects.tostring");
+			fail();
+		} catch (PojoVerificationError e) {
+			List<VerificationFailure> failures = e.getReport().getFailures();
+			assertEquals(3, failures.size());
+			assertEquals(VerificationStage.RULES, failures.get(0).getStage());
+			assertTrue(failures.get(0).getMessage().contains("serialVersionUID"));
+			assertEquals(VerificationStage.EQUALS_AND_HASH_CODE, failures.get(1).getStage());
+			assertEquals(VerificationStage.TO_STRING, failures.get(2).getStage());
+			assertEquals("toString method cannot be invoked.", failures.get(2).getMessage());
+			assertEquals(InvalidToStringTestObject.class.getName(), failures.get(2).getClassName());
+			assertEquals(3, e.getSuppressed().length);
+			assertTrue(e.getMessage().startsWith(
+					"Verification failed for 1 of 1 classes in package io.jlloyd.pojotester.test.objects.tostring:"));
+			assertTrue(e.getMessage().contains(
+					InvalidToStringTestObject.class.getName() + " [TO_STRING]: toString method cannot be invoked."));
+		}
+	}
+
+	@Test
+	public void testVerifyPojosInPackageCollectingFailures_Report() throws IOException {
+		List<Rule> ruleList = Arrays.asList(new GetterMustExistRule(), new SetterMustExistRule());
+		List<Tester> testerList = Arrays.asList(new SetterTester(), new GetterTester());
+		File reportFile = File.createTempFile("pojo-report", ".json");
+		reportFile.deleteOnExit();
+
+		VerificationReport report = verifyAllCollectingFailures("io.jlloyd.pojotester.test.objects.pojo", ruleList,
+				testerList, reportFile, ReportFormat.JSON);
+
+		assertEquals(report.toJson(), new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testVerifyPojosInPackageCollectingFailures_ReportWithFailures() throws IOException {
+		List<Rule> ruleList = Arrays.asList(new GetterMustExistRule(), new SetterMustExistRule());
+		List<Tester> testerList = Arrays.asList(new SetterTester(), new GetterTester());
+		File reportFile = File.createTempFile("pojo-report", ".xml");
+		reportFile.deleteOnExit();
+
+		try {
+			verifyAllCollectingFailures("io.jlloyd.pojotester.test.objects.tostring", ruleList, testerList,
+					reportFile, ReportFormat.JUNIT_XML);
+			fail();
+		} catch (PojoVerificationError e) {
+			assertEquals(e.getReport().toJUnitXml(),
+					new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8));
+		}
+	}
+
 	@Test
 	public void testVerifyPojoByClass() {
 		verifyAll(PositivePojoTestObject.class);
@@ -69,6 +139,106 @@ public class PojoUtilTest {
 		verifyAllFromInstance(new PositivePojoTestObject(), ruleList, testerList);
 	}
 
+	@Test
+	public void testVerifyPojosByInstances() {
+		PositivePojoTestObject first = new PositivePojoTestObject();
+		PositivePojoTestObject second = new PositivePojoTestObject();
+		second.setTest("test");
+
+		VerificationReport report = verifyAllFromInstances(first, second);
+
+		assertEquals(Arrays.asList(PositivePojoTestObject.class.getName()), report.getClassNames());
+		assertTrue(report.getFailures().isEmpty());
+	}
+
+	@Test
+	public void testVerifyPojosByInstances_Collection() {
+		PositivePojoTestObject first = new PositivePojoTestObject();
+		PositivePojoTestObject second = new PositivePojoTestObject();
+		second.setTest("test");
+		List<PositivePojoTestObject> instances = Arrays.asList(first, second);
+
+		VerificationReport report = verifyAllFromInstances(instances);
+
+		// The elements are verified, not the collection itself.
+		assertEquals(Arrays.asList(PositivePojoTestObject.class.getName()), report.getClassNames());
+	}
+
+	@Test
+	public void testVerifyPojosByInstances_NullInstance() {
+		try {
+			verifyAllFromInstances(new PositivePojoTestObject(), null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Instances to verify must not be null.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testVerifyPojosByInstances_NoInstances() {
+		List<Rule> ruleList = Arrays.asList(new GetterMustExistRule(), new SetterMustExistRule());
+		List<Tester> testerList = Arrays.asList(new SetterTester(), new GetterTester());
+
+		VerificationReport report = verifyAllFromInstances(Collections.emptyList(), ruleList, testerList);
+
+		assertTrue(report.getClassNames().isEmpty());
+	}
+
+	@Test
+	public void testVerifyPojosByInstances_Failures() {
+		try {
+			verifyAllFromInstances(new PositivePojoTestObject(), new InvalidToStringTestObject(),
+					new NullToStringTestObject());
+			fail();
+		} catch (PojoVerificationError e) {
+			assertTrue(e.getMessage().startsWith("Verification failed for 2 of 3 classes:"));
+			assertTrue(e.getMessage().contains(
+					InvalidToStringTestObject.class.getName() + " [TO_STRING]: toString method cannot be invoked."));
+			assertTrue(e.getMessage()
+					.contains(NullToStringTestObject.class.getName() + " [TO_STRING]: toString is null."));
+			assertFalse(e.getMessage().contains(PositivePojoTestObject.class.getName()));
+			assertEquals(Arrays.asList(PositivePojoTestObject.class.getName(),
+					InvalidToStringTestObject.class.getName(), NullToStringTestObject.class.getName()),
+					e.getReport().getClassNames());
+			assertEquals(e.getReport().getFailures().size(), e.getSuppressed().length);
+		}
+	}
+
+	@Test
+	public void testVerifyPojosByInstances_UnexpectedError() {
+		final Error error = new Error("Unexpected.");
+		List<Rule> ruleList = Arrays.<Rule> asList(new Rule() {
+			@Override
+			public void evaluate(PojoClass pojoClass) {
+				throw error;
+			}
+		});
+
+		try {
+			verifyAllFromInstances(Arrays.asList(new PositivePojoTestObject()), ruleList,
+					Collections.<Tester> emptyList());
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("Class " + PositivePojoTestObject.class.getName() + " cannot be verified.", e.getMessage());
+			assertSame(error, e.getCause());
+		}
+	}
+
+	@Test
+	public void testVerifyPojosByInstances_Interrupted() {
+		Thread.currentThread().interrupt();
+		try {
+			verifyAllFromInstances(new PositivePojoTestObject());
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("Verification was interrupted.", e.getMessage());
+			assertTrue(e.getCause() instanceof InterruptedException);
+		} finally {
+			// Clear the interrupt restored by the verification so it does not leak into other tests.
+			assertTrue(Thread.interrupted());
+		}
+	}
+
 	@Test
 	public void testVerifyEqualsAndHashCode() {
 		verifyEqualsAndHashCode(PositivePojoTestObject.class);
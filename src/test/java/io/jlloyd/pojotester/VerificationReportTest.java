@@ -0,0 +1,121 @@
+package io.jlloyd.pojotester;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class VerificationReportTest {
+
+	@Test
+	public void testToJson() {
+		VerificationReport report = buildReport();
+
+		assertEquals("{\n" //
+				+ "  \"package\": \"com.example\",\n" //
+				+ "  \"classes\": [\n" //
+				+ "    \"com.example.Passing\",\n" //
+				+ "    \"com.example.Failing\"\n" //
+				+ "  ],\n" //
+				+ "  \"failures\": [\n" //
+				+ "    {\"class\": \"com.example.Failing\", \"stage\": \"RULES\", \"message\": \"a \\\"quoted\\\" \\\\ message\\u000d\\nwith\\u0001\\u0009 <chars> & more\"},\n" //
+				+ "    {\"class\": \"com.example.Failing\", \"stage\": \"TO_STRING\", \"message\": null}\n" //
+				+ "  ]\n" //
+				+ "}\n", report.toJson());
+	}
+
+	@Test
+	public void testToJson_Empty() {
+		assertEquals("{\n  \"package\": \"com.example\",\n  \"classes\": [\n  ],\n  \"failures\": [\n  ]\n}\n",
+				new VerificationReport("com.example").toJson());
+	}
+
+	@Test
+	public void testToJUnitXml() {
+		VerificationReport report = buildReport();
+
+		assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //
+				+ "<testsuite name=\"com.example\" tests=\"2\" failures=\"1\" errors=\"0\" skipped=\"0\">\n" //
+				+ "  <testcase classname=\"com.example.Passing\" name=\"verifyAll\"/>\n" //
+				+ "  <testcase classname=\"com.example.Failing\" name=\"verifyAll\">\n" //
+				+ "    <failure type=\"RULES\" message=\"a &quot;quoted&quot; \\ message&#13;&#10;with&#9; &lt;chars&gt; &amp; more\">" //
+				+ "[RULES] a &quot;quoted&quot; \\ message\r\nwith\t &lt;chars&gt; &amp; more\n" //
+				+ "[TO_STRING] \n" //
+				+ "</failure>\n" //
+				+ "  </testcase>\n" //
+				+ "</testsuite>\n", report.toJUnitXml());
+	}
+
+	@Test
+	public void testGetters() {
+		VerificationReport report = buildReport();
+
+		assertEquals("com.example", report.getPackageName());
+		assertEquals(Arrays.asList("com.example.Passing", "com.example.Failing"), report.getClassNames());
+		assertEquals(Collections.singleton("com.example.Failing"), report.getFailedClassNames());
+		assertEquals("com.example.Failing [TO_STRING]: null", report.getFailures().get(1).toString());
+	}
+
+	@Test
+	public void testWrite() throws IOException {
+		VerificationReport report = buildReport();
+		File directory = Files.createTempDirectory("pojo-report").toFile();
+		File reportFile = new File(new File(directory, "nested"), "report.json");
+		reportFile.deleteOnExit();
+		reportFile.getParentFile().deleteOnExit();
+		directory.deleteOnExit();
+
+		report.write(reportFile, ReportFormat.JSON);
+
+		assertEquals(report.toJson(), new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testWrite_Exception() throws IOException {
+		File directory = Files.createTempDirectory("pojo-report").toFile();
+		directory.deleteOnExit();
+
+		try {
+			buildReport().write(directory, ReportFormat.JUNIT_XML);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("Report " + directory.getPath() + " cannot be written.", e.getMessage());
+			assertTrue(e.getCause() instanceof IOException);
+		}
+	}
+
+	@Test
+	public void testWrite_NoFormat() throws IOException {
+		File reportFile = File.createTempFile("pojo-report", ".xml");
+		reportFile.deleteOnExit();
+
+		try {
+			buildReport().write(reportFile, null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Report format must be specified.", e.getMessage());
+		}
+	}
+
+	private static VerificationReport buildReport() {
+		VerificationReport report = new VerificationReport("com.example");
+		report.addClassName("com.example.Passing");
+		report.addClassName("com.example.Failing");
+		report.addFailure(new VerificationFailure("com.example.Failing", VerificationStage.RULES,
+				new AssertionError("a \"quoted\" \\ message\r\nwith\u0001\t <chars> & more")));
+		report.addFailure(new VerificationFailure("com.example.Failing", VerificationStage.TO_STRING,
+				new RuntimeException()));
+		return report;
+	}
+}